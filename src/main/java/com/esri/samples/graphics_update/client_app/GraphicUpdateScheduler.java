@@ -0,0 +1,144 @@
+/**
+ * Copyright 2021 Esri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.esri.samples.graphics_update.client_app;
+
+import com.esri.samples.graphics_update.position_sumulator.UpdateMessage;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A class which collects vehicle update messages from any thread and applies them in batches on the JavaFX
+ * application thread.  Messages for the same vehicle are coalesced so only the latest one is applied, and each
+ * pulse stops once the frame budget is used up.  Any updates left over are applied on the next pulse.
+ */
+public class GraphicUpdateScheduler {
+
+    private final GraphicUpdateTarget target;
+    private final long frameBudgetNanos;
+    private final LongSupplier nanoClock;
+
+    // latest pending message for each vehicle, and the order in which vehicles became pending
+    private final ConcurrentHashMap<String, UpdateMessage> pendingUpdates = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> pendingVehicleIDs = new ConcurrentLinkedQueue<>();
+
+    private AnimationTimer pulseTimer;
+
+    /**
+     * Constructor for a new graphic update scheduler.
+     * @param target the target which the coalesced updates are applied to
+     * @param frameBudgetMillis the maximum time in milliseconds to spend applying updates on each pulse
+     */
+    public GraphicUpdateScheduler(GraphicUpdateTarget target, long frameBudgetMillis) {
+        this(target, frameBudgetMillis, System::nanoTime);
+    }
+
+    /**
+     * Constructor which allows the clock to be replaced, so batching can be exercised without a JavaFX pulse.
+     * @param target the target which the coalesced updates are applied to
+     * @param frameBudgetMillis the maximum time in milliseconds to spend applying updates on each pulse
+     * @param nanoClock source of the current time in nanoseconds
+     */
+    GraphicUpdateScheduler(GraphicUpdateTarget target, long frameBudgetMillis, LongSupplier nanoClock) {
+        if (target == null) {
+            throw new IllegalArgumentException("target must not be null");
+        }
+        if (frameBudgetMillis <= 0) {
+            throw new IllegalArgumentException("frameBudgetMillis must be greater than zero");
+        }
+        this.target = target;
+        this.frameBudgetNanos = TimeUnit.MILLISECONDS.toNanos(frameBudgetMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Queues an update message.  This method can be called from any thread.  If an update for the same vehicle
+     * is already pending it is replaced by this one.
+     * @param updateMessage the vehicle update message
+     */
+    public void submit(UpdateMessage updateMessage) {
+        // only queue the vehicle the first time it becomes pending; later messages just replace the pending one
+        if (pendingUpdates.put(updateMessage.getVehicleID(), updateMessage) == null) {
+            pendingVehicleIDs.add(updateMessage.getVehicleID());
+        }
+    }
+
+    /**
+     * Applies pending updates to the target until there are none left or the frame budget is used up.  At least
+     * one update is applied on each call so a slow target can't stall the queue.  This is called on every JavaFX
+     * pulse once the scheduler is started, and must be called on the thread which owns the target.
+     * @return the number of updates applied
+     */
+    public int applyPending() {
+        long deadline = nanoClock.getAsLong() + frameBudgetNanos;
+        int applied = 0;
+
+        String vehicleID;
+        while ((vehicleID = pendingVehicleIDs.poll()) != null) {
+            UpdateMessage updateMessage = pendingUpdates.remove(vehicleID);
+            if (updateMessage != null) {
+                target.applyUpdate(updateMessage);
+                applied++;
+            }
+
+            // leave the rest for the next pulse if we've run out of time
+            if (nanoClock.getAsLong() - deadline >= 0) {
+                break;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Returns the number of vehicles with an update waiting to be applied
+     * @return the number of pending updates
+     */
+    public int getPendingCount() {
+        return pendingUpdates.size();
+    }
+
+    /**
+     * Method to start applying pending updates on each JavaFX pulse.  This method must be called on the JavaFX
+     * application thread.
+     */
+    public void start() {
+        if (pulseTimer == null) {
+            pulseTimer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    applyPending();
+                }
+            };
+        }
+        pulseTimer.start();
+    }
+
+    /**
+     * Method to stop applying pending updates.  Updates which have not been applied are discarded.
+     */
+    public void stop() {
+        if (pulseTimer != null) {
+            pulseTimer.stop();
+        }
+        pendingVehicleIDs.clear();
+        pendingUpdates.clear();
+    }
+}
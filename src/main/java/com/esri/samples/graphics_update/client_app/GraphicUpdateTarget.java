@@ -0,0 +1,30 @@
+/**
+ * Copyright 2021 Esri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.esri.samples.graphics_update.client_app;
+
+import com.esri.samples.graphics_update.position_sumulator.UpdateMessage;
+
+/**
+ * Receives vehicle updates from the {@link GraphicUpdateScheduler} on the thread which applies them.
+ */
+public interface GraphicUpdateTarget {
+    /**
+     * Invoked for each coalesced vehicle update which fits in the current frame budget
+     * @param updateMessage the most recent update message for a vehicle
+     */
+    void applyUpdate(UpdateMessage updateMessage);
+}
@@ -38,9 +38,13 @@ import java.util.concurrent.ExecutionException;
 public class MoveGraphicsSample extends Application {
     private MapView mapView;
     private MessageGenerator messageGenerator;
+    private GraphicUpdateScheduler updateScheduler;
     private GraphicsOverlay graphicsOverlay;
     private HashMap<String, Graphic> vehicles = new HashMap<>();
 
+    // maximum time spent applying vehicle updates on each JavaFX pulse, leaving the rest of the frame for rendering
+    private static final long FRAME_BUDGET_MILLIS = 8;
+
     public static void main(String[] args) {
         Application.launch(args);
     }
@@ -85,9 +89,13 @@ public class MoveGraphicsSample extends Application {
         // 5000 vehicles have been chosen for this demonstration, but you can experiment with more.
         messageGenerator = new MessageGenerator(5000);
 
+        // updates arrive on the simulator's timer thread, so queue them and apply them in batches on the JavaFX thread
+        updateScheduler = new GraphicUpdateScheduler(this::updateGraphic, FRAME_BUDGET_MILLIS);
+        updateScheduler.start();
+
         // set up a listener for update messages
         messageGenerator.addUpdateMessageListener(listener -> {
-            updateGraphic(listener.getUpdateMessage());
+            updateScheduler.submit(listener.getUpdateMessage());
         });
 
         // start the messages from the simulator
@@ -99,7 +107,7 @@ public class MoveGraphicsSample extends Application {
 
     /**
      * Method to update a graphic from a vehicle update message.  If the message has come from a new vehicle
-     * then a new graphic will be added.
+     * then a new graphic will be added.  This is called by the update scheduler on the JavaFX application thread.
      * @param updateMessage
      */
     private void updateGraphic(UpdateMessage updateMessage) {
@@ -191,5 +199,8 @@ public class MoveGraphicsSample extends Application {
             mapView.dispose();
         }
         messageGenerator.stopMessages();
+        if (updateScheduler != null) {
+            updateScheduler.stop();
+        }
     }
 }